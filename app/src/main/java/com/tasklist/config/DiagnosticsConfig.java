@@ -0,0 +1,48 @@
+package com.tasklist.config;
+
+import com.tasklist.diagnostics.DatabaseDiagnosticsEndpoint;
+import com.tasklist.diagnostics.QueryTimingDataSource;
+import com.tasklist.diagnostics.SlowQueryLog;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "tasklist.diagnostics.enabled", havingValue = "true")
+public class DiagnosticsConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${tasklist.diagnostics.slow-query-ms:200}") long thresholdMs,
+                                     @Value("${tasklist.diagnostics.slow-query-samples:50}") int maxSamples) {
+        return new SlowQueryLog(thresholdMs, maxSamples);
+    }
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+                    return new QueryTimingDataSource(dataSource, slowQueryLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public DatabaseDiagnosticsEndpoint databaseDiagnosticsEndpoint(DataSource dataSource,
+                                                                   EntityManagerFactory entityManagerFactory,
+                                                                   SlowQueryLog slowQueryLog) {
+        return new DatabaseDiagnosticsEndpoint(dataSource, entityManagerFactory, slowQueryLog);
+    }
+}
@@ -0,0 +1,44 @@
+package com.tasklist.config;
+
+import com.tasklist.reminder.InMemoryReminderSink;
+import com.tasklist.reminder.LoggingReminderSink;
+import com.tasklist.reminder.ReminderScheduler;
+import com.tasklist.reminder.ReminderSink;
+import com.tasklist.reminder.WebhookReminderSink;
+import com.tasklist.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "tasklist.reminders.enabled", havingValue = "true")
+public class ReminderConfig {
+
+    @Bean
+    public ReminderSink reminderSink(RestClient.Builder restClientBuilder,
+                                     @Value("${tasklist.reminders.sink:log}") String sink,
+                                     @Value("${tasklist.reminders.webhook-url:}") String webhookUrl,
+                                     @Value("${tasklist.reminders.webhook-connect-timeout:PT2S}") Duration connectTimeout,
+                                     @Value("${tasklist.reminders.webhook-read-timeout:PT5S}") Duration readTimeout) {
+        return switch (sink) {
+            case "log" -> new LoggingReminderSink();
+            case "webhook" -> new WebhookReminderSink(restClientBuilder, webhookUrl, connectTimeout, readTimeout);
+            case "memory" -> new InMemoryReminderSink();
+            default -> throw new IllegalStateException("Unknown reminder sink: " + sink);
+        };
+    }
+
+    @Bean
+    public ReminderScheduler reminderScheduler(TaskRepository taskRepository, ReminderSink reminderSink,
+                                               @Value("${tasklist.reminders.lead-time:PT24H}") Duration leadTime,
+                                               @Value("${tasklist.reminders.reload-ms:300000}") long reloadMillis,
+                                               @Value("${tasklist.reminders.tick-ms:60000}") long tickMillis) {
+        return new ReminderScheduler(taskRepository, reminderSink, Clock.systemDefaultZone(), leadTime,
+                Duration.ofMillis(reloadMillis), tickMillis);
+    }
+}
@@ -1,29 +1,53 @@
 package com.tasklist.controller;
 
 import com.tasklist.model.Task;
+import com.tasklist.reminder.ReminderScheduler;
+import com.tasklist.repository.TaskDueDateIndex;
+import com.tasklist.repository.TaskQueryCoalescer;
 import com.tasklist.repository.TaskRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/tasks")
 @Slf4j
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TaskRepository taskRepository;
+    private final ObjectProvider<TaskDueDateIndex> dueDateIndex;
+    private final ObjectProvider<TaskQueryCoalescer> queryCoalescer;
+    private final ObjectProvider<ReminderScheduler> reminderScheduler;
 
-    public TaskController(TaskRepository taskRepository) {
+    public TaskController(TaskRepository taskRepository,
+                          ObjectProvider<TaskDueDateIndex> dueDateIndex,
+                          ObjectProvider<TaskQueryCoalescer> queryCoalescer,
+                          ObjectProvider<ReminderScheduler> reminderScheduler) {
         this.taskRepository = taskRepository;
+        this.dueDateIndex = dueDateIndex;
+        this.queryCoalescer = queryCoalescer;
+        this.reminderScheduler = reminderScheduler;
     }
 
     // List all tasks (sorted by due date)
     @GetMapping
     public List<Task> getAllTasks() {
         log.info("Received request to get all tasks.");
-        List<Task> tasks = taskRepository.findAllByOrderByDueDateAsc();
+        List<Task> tasks = coalesced("findAllByOrderByDueDateAsc", taskRepository::findAllByOrderByDueDateAsc);
         log.info("Returning {} tasks from repository.", tasks.size());
         return tasks;
     }
@@ -31,7 +55,38 @@ public class TaskController {
     // Filter by completion status
     @GetMapping("/filter")
     public List<Task> getTasksByStatus(@RequestParam boolean completed) {
-        return taskRepository.findByCompleted(completed);
+        return coalesced("findByCompleted:" + completed, () -> taskRepository.findByCompleted(completed));
+    }
+
+    // Open tasks due within a date range (paged, sorted by due date)
+    @GetMapping("/due")
+    public ResponseEntity<List<Task>> getOpenTasksDueBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        TaskDueDateIndex index = dueDateIndex.getIfAvailable();
+        if (index == null) {
+            return ResponseEntity.ok(taskRepository.findByCompletedFalseAndDueDateBetweenOrderByDueDateAscIdAsc(
+                    from, to, PageRequest.of(page, size)));
+        }
+        // The index resolves the page to ids; the rows themselves are fetched by primary key
+        long[] ids = index.findOpenIdsDueBetween(from, to, page, size);
+        Map<Long, Task> tasksById = taskRepository.findAllById(Arrays.stream(ids).boxed().toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> tasks = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Task task = tasksById.get(id);
+            // The index lags behind writes made through other replicas, so re-check the loaded row
+            if (task != null && !task.isCompleted() && task.getDueDate() != null
+                    && !task.getDueDate().isBefore(from) && !task.getDueDate().isAfter(to)) {
+                tasks.add(task);
+            }
+        }
+        return ResponseEntity.ok(tasks);
     }
 
     // Create a new task
@@ -45,6 +100,9 @@ public class TaskController {
         log.info("Attempting to save task to repository: {}", task);
         Task savedTask = taskRepository.save(task);
         log.info("Successfully saved task with ID: {}", savedTask.getId());
+        dueDateIndex.ifAvailable(index -> index.refresh(savedTask.getId()));
+        queryCoalescer.ifAvailable(TaskQueryCoalescer::invalidate);
+        reminderScheduler.ifAvailable(scheduler -> scheduler.schedule(savedTask));
         return savedTask;
     }
 
@@ -64,7 +122,11 @@ public class TaskController {
             task.setDescription(taskDetails.getDescription());
             task.setCompleted(taskDetails.isCompleted());
             task.setDueDate(taskDetails.getDueDate());
-            return ResponseEntity.ok(taskRepository.save(task));
+            Task savedTask = taskRepository.save(task);
+            dueDateIndex.ifAvailable(index -> index.refresh(savedTask.getId()));
+            queryCoalescer.ifAvailable(TaskQueryCoalescer::invalidate);
+            reminderScheduler.ifAvailable(scheduler -> scheduler.schedule(savedTask));
+            return ResponseEntity.ok(savedTask);
         }).orElse(ResponseEntity.notFound().build());
     }
 
@@ -73,8 +135,17 @@ public class TaskController {
     public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
         if (taskRepository.existsById(taskId)) {
             taskRepository.deleteById(taskId);
+            dueDateIndex.ifAvailable(index -> index.refresh(taskId));
+            queryCoalescer.ifAvailable(TaskQueryCoalescer::invalidate);
+            reminderScheduler.ifAvailable(scheduler -> scheduler.cancel(taskId));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    // Share one database call between concurrent identical reads when coalescing is enabled
+    private <T> T coalesced(String key, Supplier<T> query) {
+        TaskQueryCoalescer coalescer = queryCoalescer.getIfAvailable();
+        return coalescer == null ? query.get() : coalescer.execute(key, query);
+    }
 }
@@ -0,0 +1,110 @@
+package com.tasklist.diagnostics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/database}) reporting connection pool utilisation,
+ * recent slow statements and Hibernate per-query execution statistics.
+ */
+@Endpoint(id = "database")
+public class DatabaseDiagnosticsEndpoint {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SlowQueryLog slowQueryLog;
+
+    public DatabaseDiagnosticsEndpoint(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                       SlowQueryLog slowQueryLog) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> diagnostics() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pool", pool());
+        report.put("slowQueryThresholdMs", slowQueryLog.thresholdMs());
+        report.put("slowQueries", slowQueryLog.samples());
+        report.put("queryStatistics", queryStatistics());
+        return report;
+    }
+
+    private Map<String, Object> pool() {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        HikariDataSource hikari = hikariDataSource();
+        HikariPoolMXBean poolBean = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (poolBean == null) {
+            pool.put("available", false);
+            return pool;
+        }
+        int maximum = hikari.getMaximumPoolSize();
+        int active = poolBean.getActiveConnections();
+        pool.put("available", true);
+        pool.put("name", hikari.getPoolName());
+        pool.put("active", active);
+        pool.put("idle", poolBean.getIdleConnections());
+        pool.put("total", poolBean.getTotalConnections());
+        pool.put("maximum", maximum);
+        pool.put("threadsAwaitingConnection", poolBean.getThreadsAwaitingConnection());
+        pool.put("utilization", maximum > 0 ? (double) active / maximum : 0.0);
+        return pool;
+    }
+
+    private HikariDataSource hikariDataSource() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    private Map<String, Object> queryStatistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            return result;
+        }
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        result.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        result.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        result.put("connectCount", statistics.getConnectCount());
+
+        // Most expensive queries (by total time) first
+        List<Map<String, Object>> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> queryEntry(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map<String, Object> entry) -> (Long) entry.get("totalTimeMs")).reversed())
+                .toList();
+        result.put("queries", queries);
+        return result;
+    }
+
+    private static Map<String, Object> queryEntry(String query, QueryStatistics stats) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("query", query);
+        entry.put("executionCount", stats.getExecutionCount());
+        entry.put("rowCount", stats.getExecutionRowCount());
+        entry.put("avgTimeMs", stats.getExecutionAvgTime());
+        entry.put("minTimeMs", stats.getExecutionMinTime());
+        entry.put("maxTimeMs", stats.getExecutionMaxTime());
+        entry.put("totalTimeMs", stats.getExecutionTotalTime());
+        return entry;
+    }
+}
@@ -0,0 +1,104 @@
+package com.tasklist.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that times every statement execution and reports it, together
+ * with its SQL and number of bound parameters, to a {@link SlowQueryLog}.
+ *
+ * Pool internals stay reachable through {@code unwrap}, so Hikari metrics still work.
+ */
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public QueryTimingDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return wrap(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, String sql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type},
+                new StatementHandler(statement, sql));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    // Statements are used by one thread at a time, so the bind counter needs no synchronisation
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private int bindCount;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String executedSql = sql != null ? sql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                long start = System.nanoTime();
+                try {
+                    return QueryTimingDataSource.invoke(target, method, args);
+                } finally {
+                    slowQueryLog.record(executedSql, bindCount, System.nanoTime() - start);
+                    bindCount = 0;
+                }
+            }
+            if (name.startsWith("set") && (method.getDeclaringClass() == PreparedStatement.class
+                    || method.getDeclaringClass() == CallableStatement.class)) {
+                bindCount++;
+            } else if (name.equals("clearParameters")) {
+                bindCount = 0;
+            }
+            return QueryTimingDataSource.invoke(target, method, args);
+        }
+    }
+}
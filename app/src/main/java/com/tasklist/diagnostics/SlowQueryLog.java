@@ -0,0 +1,42 @@
+package com.tasklist.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+// Keeps the most recent statements that ran longer than the threshold, newest first
+public class SlowQueryLog {
+
+    public record SlowQuery(String sql, int bindCount, long durationMs, Instant executedAt) {
+    }
+
+    private final Deque<SlowQuery> samples = new ConcurrentLinkedDeque<>();
+    private final long thresholdNanos;
+    private final int maxSamples;
+
+    public SlowQueryLog(long thresholdMs, int maxSamples) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.maxSamples = maxSamples;
+    }
+
+    public void record(String sql, int bindCount, long durationNanos) {
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+        samples.addFirst(new SlowQuery(sql, bindCount, TimeUnit.NANOSECONDS.toMillis(durationNanos), Instant.now()));
+        while (samples.size() > maxSamples) {
+            samples.pollLast();
+        }
+    }
+
+    public List<SlowQuery> samples() {
+        return new ArrayList<>(samples);
+    }
+
+    public long thresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+}
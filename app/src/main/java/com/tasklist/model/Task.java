@@ -1,5 +1,6 @@
 package com.tasklist.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
@@ -16,4 +17,9 @@ public class Task {
     private String description;
     private LocalDate dueDate;
     private boolean completed = false;
+
+    // Due date a reminder was last sent for; only written by TaskRepository.claimReminder
+    @JsonIgnore
+    @Column(insertable = false, updatable = false)
+    private LocalDate remindedFor;
 }
@@ -0,0 +1,23 @@
+package com.tasklist.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Collects reminders in memory so tests can assert on them
+public class InMemoryReminderSink implements ReminderSink {
+
+    private final BlockingQueue<ReminderEvent> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void send(ReminderEvent event) {
+        events.add(event);
+    }
+
+    public List<ReminderEvent> drain() {
+        List<ReminderEvent> drained = new ArrayList<>();
+        events.drainTo(drained);
+        return drained;
+    }
+}
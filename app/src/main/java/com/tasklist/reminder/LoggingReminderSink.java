@@ -0,0 +1,12 @@
+package com.tasklist.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void send(ReminderEvent event) {
+        log.info("Reminder: task {} '{}' is due on {}.", event.taskId(), event.title(), event.dueDate());
+    }
+}
@@ -0,0 +1,8 @@
+package com.tasklist.reminder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Reminder that a task is approaching its due date
+public record ReminderEvent(Long taskId, String title, LocalDate dueDate, Instant remindAt) {
+}
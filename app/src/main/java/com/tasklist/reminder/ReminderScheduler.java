@@ -0,0 +1,118 @@
+package com.tasklist.reminder;
+
+import com.tasklist.model.Task;
+import com.tasklist.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fires a reminder {@code leadTime} before the start of each open task's due date.
+ *
+ * Upcoming tasks are loaded into a {@link TimerWheel} at startup and kept current by
+ * {@link #schedule(Task)} and {@link #cancel(long)} from the write paths, so each tick
+ * only handles the reminders that are actually due. {@link #reload()} periodically picks
+ * up tasks written through other replicas; it only reads tasks whose reminder falls
+ * before the next reload, so its cost follows the near-term workload rather than the
+ * size of the table.
+ *
+ * A reminder is sent once per due date: before sending, the scheduler claims it with
+ * {@link TaskRepository#claimReminder}, so restarts, edits and replicas never send it
+ * twice. Delivery is at most once; a reminder whose sink call fails is not retried.
+ */
+@Slf4j
+public class ReminderScheduler {
+
+    private final TaskRepository taskRepository;
+    private final ReminderSink sink;
+    private final Clock clock;
+    private final Duration leadTime;
+    private final Duration reloadInterval;
+    private final long tickMillis;
+    private final TimerWheel<ReminderEvent> wheel;
+
+    public ReminderScheduler(TaskRepository taskRepository, ReminderSink sink, Clock clock,
+                             Duration leadTime, Duration reloadInterval, long tickMillis) {
+        this.taskRepository = taskRepository;
+        this.sink = sink;
+        this.clock = clock;
+        this.leadTime = leadTime;
+        this.reloadInterval = reloadInterval;
+        this.tickMillis = tickMillis;
+        this.wheel = new TimerWheel<>(currentTick());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        log.info("Scheduled reminders for {} upcoming tasks.", pending());
+    }
+
+    // Re-read tasks still waiting for a reminder; also catches up with writes made through other replicas
+    @Scheduled(fixedDelayString = "${tasklist.reminders.reload-ms:300000}",
+            initialDelayString = "${tasklist.reminders.reload-ms:300000}")
+    public void reload() {
+        // Tasks due later than this are reminded after the next reload, which will read them
+        LocalDate horizon = LocalDate.ofInstant(clock.instant().plus(leadTime).plus(reloadInterval), clock.getZone());
+        taskRepository.findOpenTasksToRemindBetween(LocalDate.now(clock), horizon).forEach(this::schedule);
+    }
+
+    // Add, move or drop the reminder for a task after it was saved
+    public synchronized void schedule(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        wheel.cancel(task.getId());
+        if (task.isCompleted() || task.getDueDate() == null || task.getDueDate().isBefore(LocalDate.now(clock))) {
+            return;
+        }
+        // Already reminded for this due date; only moving the due date earns a new reminder
+        if (task.getDueDate().equals(task.getRemindedFor())) {
+            return;
+        }
+        // A reminder time that has already passed fires on the next tick
+        Instant remindAt = task.getDueDate().atStartOfDay(clock.getZone()).toInstant().minus(leadTime);
+        ReminderEvent event = new ReminderEvent(task.getId(), task.getTitle(), task.getDueDate(), remindAt);
+        wheel.schedule(task.getId(), Math.floorDiv(remindAt.toEpochMilli(), tickMillis), event);
+    }
+
+    public synchronized void cancel(long taskId) {
+        wheel.cancel(taskId);
+    }
+
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedRateString = "${tasklist.reminders.tick-ms:60000}")
+    public void tick() {
+        List<ReminderEvent> due;
+        synchronized (this) {
+            due = wheel.advanceTo(currentTick());
+        }
+        // Deliver outside the lock so a slow sink does not block the write paths
+        for (ReminderEvent event : due) {
+            try {
+                // Another replica sent it, or the task was completed, moved or deleted meanwhile
+                if (taskRepository.claimReminder(event.taskId(), event.dueDate()) == 0) {
+                    log.debug("Skipping reminder for task {}: already sent or no longer due.", event.taskId());
+                    continue;
+                }
+                sink.send(event);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to deliver reminder for task {}: {}", event.taskId(), ex.getMessage());
+            }
+        }
+    }
+
+    private long currentTick() {
+        return Math.floorDiv(clock.millis(), tickMillis);
+    }
+}
@@ -0,0 +1,6 @@
+package com.tasklist.reminder;
+
+// Destination for reminder events (selected with tasklist.reminders.sink)
+public interface ReminderSink {
+    void send(ReminderEvent event);
+}
@@ -0,0 +1,129 @@
+package com.tasklist.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by task id.
+ *
+ * Four levels of 64 slots; a slot on level n spans 64^n ticks. Entries move down a
+ * level when their slot comes round, so advancing one tick only touches the expiring
+ * slot plus an amortised cascade, independent of how many entries are scheduled.
+ * Deadlines further out than the wheel covers are parked on the top level and
+ * re-placed when cascaded. Not thread-safe; callers synchronise.
+ */
+public class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Map<Long, Entry<T>> entries = new HashMap<>();
+    private final List<List<Map<Long, Entry<T>>>> wheels = new ArrayList<>(LEVELS);
+    private long currentTick;
+
+    public TimerWheel(long startTick) {
+        this.currentTick = startTick;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Map<Long, Entry<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashMap<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    // Schedule (or reschedule) an id; deadlines at or before the current tick fire on the next tick
+    public void schedule(long id, long deadlineTick, T payload) {
+        cancel(id);
+        Entry<T> entry = new Entry<>(id, deadlineTick, payload);
+        entries.put(id, entry);
+        place(entry);
+    }
+
+    public boolean cancel(long id) {
+        Entry<T> entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        wheels.get(entry.level).get(entry.slot).remove(id);
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    // Advance to the given tick and return the payloads that expired on the way, tick by tick
+    public List<T> advanceTo(long tick) {
+        List<T> expired = new ArrayList<>();
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, expired);
+                }
+            }
+            Map<Long, Entry<T>> slot = wheels.get(0).get(slotIndex(currentTick, 0));
+            for (Entry<T> entry : slot.values()) {
+                entries.remove(entry.id);
+                expired.add(entry.payload);
+            }
+            slot.clear();
+        }
+        return expired;
+    }
+
+    private void cascade(int level, List<T> expired) {
+        List<Map<Long, Entry<T>>> slots = wheels.get(level);
+        int index = slotIndex(currentTick, level);
+        Map<Long, Entry<T>> slot = slots.get(index);
+        slots.set(index, new HashMap<>());
+        for (Entry<T> entry : slot.values()) {
+            if (entry.deadline <= currentTick) {
+                entries.remove(entry.id);
+                expired.add(entry.payload);
+            } else {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delay = Math.min(Math.max(entry.deadline - currentTick, 1), MAX_DELAY);
+        long target = currentTick + delay;
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        entry.level = level;
+        entry.slot = slotIndex(target, level);
+        wheels.get(level).get(entry.slot).put(entry.id, entry);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+    }
+
+    private static final class Entry<T> {
+
+        final long id;
+        final long deadline;
+        final T payload;
+        int level;
+        int slot;
+
+        Entry(long id, long deadline, T payload) {
+            this.id = id;
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.tasklist.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+// Minimal webhook delivery: POSTs each reminder as JSON, no retries.
+// Timeouts are short because delivery runs on the scheduler thread.
+@Slf4j
+public class WebhookReminderSink implements ReminderSink {
+
+    private final RestClient restClient;
+    private final String webhookUrl;
+
+    // Takes Boot's RestClient.Builder so the payload uses the application's JSON settings (ISO-8601 dates)
+    public WebhookReminderSink(RestClient.Builder restClientBuilder, String webhookUrl,
+                               Duration connectTimeout, Duration readTimeout) {
+        if (webhookUrl == null || webhookUrl.isBlank()) {
+            throw new IllegalStateException("tasklist.reminders.webhook-url must be set for the webhook sink");
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.webhookUrl = webhookUrl;
+    }
+
+    @Override
+    public void send(ReminderEvent event) {
+        restClient.post()
+                .uri(webhookUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(event)
+                .retrieve()
+                .toBodilessEntity();
+        log.debug("Posted reminder for task {} to {}.", event.taskId(), webhookUrl);
+    }
+}
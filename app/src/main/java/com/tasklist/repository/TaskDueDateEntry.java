@@ -0,0 +1,10 @@
+package com.tasklist.repository;
+
+import java.time.LocalDate;
+
+// Projection of the columns the due date index needs, read straight from the database
+public interface TaskDueDateEntry {
+    Long getId();
+    LocalDate getDueDate();
+    boolean isCompleted();
+}
@@ -0,0 +1,272 @@
+package com.tasklist.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory secondary index of tasks ordered by due date.
+ *
+ * Entries are kept in parallel primitive arrays sorted by (epoch-day, id) with a
+ * bitset marking completed tasks. Writers build a new snapshot under a lock and
+ * publish it with a volatile write, so readers never block. Tasks without a due
+ * date are not indexed.
+ *
+ * After a write, {@link #refresh(long)} re-reads the task's committed row under a
+ * per-id striped lock, so concurrent writes to one task always leave the index at
+ * the latest committed state. Writes made by other replicas are only picked up by
+ * the periodic {@link #reload()}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasklist.index.enabled", havingValue = "true")
+@Slf4j
+public class TaskDueDateIndex {
+
+    private static final int STRIPES = 64;
+
+    private final TaskRepository taskRepository;
+    private final Object writeLock = new Object();
+    private final Object reloadLock = new Object();
+    private final Object[] stripes = new Object[STRIPES];
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Ids refreshed while a reload is reading the table; re-applied once it has been published
+    private volatile Set<Long> refreshedDuringReload;
+
+    public TaskDueDateIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    // Load the index once the application (and the database) is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        log.info("Due date index loaded with {} tasks.", size());
+    }
+
+    // Rebuild from the table; also catches up with writes made through other replicas
+    @Scheduled(fixedDelayString = "${tasklist.index.reload-ms:300000}",
+            initialDelayString = "${tasklist.index.reload-ms:300000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            Set<Long> refreshed = ConcurrentHashMap.newKeySet();
+            refreshedDuringReload = refreshed;
+            try {
+                rebuild(taskRepository.findAllDueDateEntries());
+            } finally {
+                refreshedDuringReload = null;
+            }
+            refreshed.forEach(this::refresh);
+        }
+    }
+
+    // Bring one task in line with its committed row; call after every save or delete
+    public void refresh(long id) {
+        Set<Long> refreshed = refreshedDuringReload;
+        if (refreshed != null) {
+            refreshed.add(id);
+        }
+        synchronized (stripes[Math.floorMod(Long.hashCode(id), STRIPES)]) {
+            Optional<TaskDueDateEntry> entry = taskRepository.findDueDateEntryById(id);
+            if (entry.isPresent()) {
+                put(id, entry.get().getDueDate(), entry.get().isCompleted());
+            } else {
+                remove(id);
+            }
+        }
+    }
+
+    // Replace the whole index with the given entries
+    private void rebuild(Collection<TaskDueDateEntry> entries) {
+        long[] days = new long[entries.size()];
+        long[] ids = new long[entries.size()];
+        BitSet completed = new BitSet(entries.size());
+        int count = 0;
+        for (TaskDueDateEntry entry : entries) {
+            if (entry.getId() == null || entry.getDueDate() == null) {
+                continue;
+            }
+            days[count] = entry.getDueDate().toEpochDay();
+            ids[count] = entry.getId();
+            if (entry.isCompleted()) {
+                completed.set(count);
+            }
+            count++;
+        }
+        Snapshot unsorted = new Snapshot(Arrays.copyOf(days, count), Arrays.copyOf(ids, count), completed);
+        synchronized (writeLock) {
+            snapshot = unsorted.sorted();
+        }
+    }
+
+    // Insert or update a task; a task whose due date was cleared is dropped
+    private void put(long id, LocalDate dueDate, boolean completed) {
+        synchronized (writeLock) {
+            Snapshot updated = snapshot.without(id);
+            if (dueDate != null) {
+                updated = updated.with(dueDate.toEpochDay(), id, completed);
+            }
+            snapshot = updated;
+        }
+    }
+
+    private void remove(long id) {
+        synchronized (writeLock) {
+            snapshot = snapshot.without(id);
+        }
+    }
+
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    /**
+     * Returns the ids of open tasks due between {@code from} and {@code to} (inclusive),
+     * ordered by due date, for the requested zero-based page.
+     */
+    public long[] findOpenIdsDueBetween(LocalDate from, LocalDate to, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be >= 0 and size must be >= 1");
+        }
+        Snapshot current = snapshot;
+        int start = current.lowerBound(from.toEpochDay(), Long.MIN_VALUE);
+        int end = current.lowerBound(to.toEpochDay() + 1, Long.MIN_VALUE);
+        long skip = (long) page * size;
+        long[] result = new long[Math.max(0, Math.min(size, end - start))];
+        int found = 0;
+        for (int i = current.completed.nextClearBit(start);
+             i < end && found < result.length;
+             i = current.completed.nextClearBit(i + 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                result[found++] = current.ids[i];
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    // Immutable view of the index; never modified after publication
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new BitSet());
+
+        final long[] days;
+        final long[] ids;
+        final BitSet completed;
+
+        Snapshot(long[] days, long[] ids, BitSet completed) {
+            this.days = days;
+            this.ids = ids;
+            this.completed = completed;
+        }
+
+        // First position whose (day, id) is not less than the given key
+        int lowerBound(long day, long id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (days[mid] < day || (days[mid] == day && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Snapshot with(long day, long id, boolean done) {
+            int position = lowerBound(day, id);
+            long[] newDays = new long[days.length + 1];
+            long[] newIds = new long[ids.length + 1];
+            System.arraycopy(days, 0, newDays, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            newDays[position] = day;
+            newIds[position] = id;
+            System.arraycopy(days, position, newDays, position + 1, days.length - position);
+            System.arraycopy(ids, position, newIds, position + 1, ids.length - position);
+
+            BitSet newCompleted = completed.get(0, position);
+            newCompleted.set(position, done);
+            for (int i = completed.nextSetBit(position); i >= 0; i = completed.nextSetBit(i + 1)) {
+                newCompleted.set(i + 1);
+            }
+            return new Snapshot(newDays, newIds, newCompleted);
+        }
+
+        Snapshot without(long id) {
+            int position = indexOf(id);
+            if (position < 0) {
+                return this;
+            }
+            long[] newDays = new long[days.length - 1];
+            long[] newIds = new long[ids.length - 1];
+            System.arraycopy(days, 0, newDays, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(days, position + 1, newDays, position, days.length - position - 1);
+            System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+
+            BitSet newCompleted = completed.get(0, position);
+            for (int i = completed.nextSetBit(position + 1); i >= 0; i = completed.nextSetBit(i + 1)) {
+                newCompleted.set(i - 1);
+            }
+            return new Snapshot(newDays, newIds, newCompleted);
+        }
+
+        // The caller does not know the old due date, so look the id up by scanning
+        private int indexOf(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // Sort by (day, id): replace both by their ranks and sort packed (dayRank << 32 | idRank) keys
+        Snapshot sorted() {
+            int n = ids.length;
+            long[] idsByRank = ids.clone();
+            Arrays.sort(idsByRank);
+            long[] daysByRank = days.clone();
+            Arrays.sort(daysByRank);
+            BitSet completedByIdRank = new BitSet(n);
+            long[] keys = new long[n];
+            for (int i = 0; i < n; i++) {
+                int idRank = Arrays.binarySearch(idsByRank, ids[i]);
+                int dayRank = Arrays.binarySearch(daysByRank, days[i]);
+                keys[i] = ((long) dayRank << 32) | idRank;
+                if (completed.get(i)) {
+                    completedByIdRank.set(idRank);
+                }
+            }
+            Arrays.sort(keys);
+            long[] sortedDays = new long[n];
+            long[] sortedIds = new long[n];
+            BitSet sortedCompleted = new BitSet(n);
+            for (int i = 0; i < n; i++) {
+                int idRank = (int) keys[i];
+                sortedDays[i] = daysByRank[(int) (keys[i] >>> 32)];
+                sortedIds[i] = idsByRank[idRank];
+                if (completedByIdRank.get(idRank)) {
+                    sortedCompleted.set(i);
+                }
+            }
+            return new Snapshot(sortedDays, sortedIds, sortedCompleted);
+        }
+    }
+}
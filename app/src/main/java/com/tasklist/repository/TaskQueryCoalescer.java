@@ -0,0 +1,115 @@
+package com.tasklist.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight wrapper for repository reads.
+ *
+ * Concurrent calls with the same key share one database call and its result. With a
+ * non-zero window the completed result is also reused by calls arriving shortly after.
+ * {@link #invalidate()} drops all results, including queries still running, so a read
+ * that starts after a write never sees data from before it. The
+ * {@code tasklist.repository.queries} counter reports executed vs. coalesced calls.
+ */
+@Component
+@ConditionalOnProperty(name = "tasklist.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskQueryCoalescer {
+
+    private final Map<String, Call> calls = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long windowNanos;
+
+    public TaskQueryCoalescer(MeterRegistry meterRegistry,
+                              @Value("${tasklist.coalescing.window-ms:0}") long windowMs) {
+        this.meterRegistry = meterRegistry;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> query) {
+        while (true) {
+            Call existing = calls.get(key);
+            if (existing != null && !existing.isExpired(windowNanos)) {
+                count(key, "coalesced");
+                return (T) existing.join();
+            }
+
+            Call own = new Call();
+            boolean leader = existing == null
+                    ? calls.putIfAbsent(key, own) == null
+                    : calls.replace(key, existing, own);
+            if (!leader) {
+                continue;
+            }
+
+            count(key, "executed");
+            try {
+                T result = query.get();
+                own.complete(result);
+                if (windowNanos == 0 || own.invalidated) {
+                    calls.remove(key, own);
+                }
+                return result;
+            } catch (RuntimeException | Error ex) {
+                calls.remove(key, own);
+                own.result.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+    }
+
+    // Forget all results, finished or in flight, so the next read goes to the database
+    public void invalidate() {
+        calls.values().removeIf(call -> {
+            call.invalidated = true;
+            return true;
+        });
+    }
+
+    private void count(String key, String outcome) {
+        meterRegistry.counter("tasklist.repository.queries", "query", key, "outcome", outcome).increment();
+    }
+
+    private static final class Call {
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        volatile long completedAt;
+        volatile boolean done;
+        // Set by a write; the call may finish but its result is never handed to new callers
+        volatile boolean invalidated;
+
+        void complete(Object value) {
+            completedAt = System.nanoTime();
+            done = true;
+            result.complete(value);
+        }
+
+        boolean isExpired(long windowNanos) {
+            return invalidated || (done && System.nanoTime() - completedAt >= windowNanos);
+        }
+
+        Object join() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -1,10 +1,36 @@
 package com.tasklist.repository;
 
 import com.tasklist.model.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByCompleted(boolean completed);
     List<Task> findAllByOrderByDueDateAsc();
+    List<Task> findByCompletedFalseAndDueDateBetweenOrderByDueDateAscIdAsc(LocalDate from, LocalDate to, Pageable pageable);
+
+    // Open tasks due in the range that have not been reminded for their current due date
+    @Query("select t from Task t where t.completed = false and t.dueDate between :from and :to"
+            + " and (t.remindedFor is null or t.remindedFor <> t.dueDate)")
+    List<Task> findOpenTasksToRemindBetween(LocalDate from, LocalDate to);
+
+    // Marks the reminder for this due date as sent; returns 1 for exactly one caller across all replicas
+    @Modifying
+    @Transactional
+    @Query("update Task t set t.remindedFor = :dueDate where t.id = :id and t.completed = false"
+            + " and t.dueDate = :dueDate and (t.remindedFor is null or t.remindedFor <> :dueDate)")
+    int claimReminder(Long id, LocalDate dueDate);
+
+    // Scalar projection, so the values come from the database rather than the persistence context
+    @Query("select t.id as id, t.dueDate as dueDate, t.completed as completed from Task t where t.id = :id")
+    Optional<TaskDueDateEntry> findDueDateEntryById(Long id);
+
+    @Query("select t.id as id, t.dueDate as dueDate, t.completed as completed from Task t where t.dueDate is not null")
+    List<TaskDueDateEntry> findAllDueDateEntries();
 }
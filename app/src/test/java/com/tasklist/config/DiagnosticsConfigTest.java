@@ -0,0 +1,66 @@
+package com.tasklist.config;
+
+import com.tasklist.diagnostics.DatabaseDiagnosticsEndpoint;
+import com.tasklist.diagnostics.QueryTimingDataSource;
+import com.tasklist.diagnostics.SlowQueryLog;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DiagnosticsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DiagnosticsConfig.class)
+            .withBean(DataSource.class, () -> mock(DataSource.class))
+            .withBean(EntityManagerFactory.class, () -> mock(EntityManagerFactory.class));
+
+    @Test
+    void shouldWrapDataSourceWhenEnabled() {
+        contextRunner
+                .withPropertyValues("tasklist.diagnostics.enabled=true", "tasklist.diagnostics.slow-query-ms=0")
+                .run(context -> {
+                    // given
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    DataSource target = ((QueryTimingDataSource) dataSource).getTargetDataSource();
+                    Connection connection = mock(Connection.class);
+                    when(target.getConnection()).thenReturn(connection);
+                    when(connection.createStatement()).thenReturn(mock(Statement.class));
+
+                    // when
+                    dataSource.getConnection().createStatement().execute("select 1");
+
+                    // then
+                    assertThat(dataSource).isInstanceOf(QueryTimingDataSource.class);
+                    assertThat(target).isNotInstanceOf(QueryTimingDataSource.class);
+                    assertThat(context.getBean(SlowQueryLog.class).samples())
+                            .extracting(SlowQueryLog.SlowQuery::sql).containsExactly("select 1");
+                });
+    }
+
+    @Test
+    void shouldLeaveDataSourceAloneWhenDisabled() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(QueryTimingDataSource.class);
+            assertThat(context).doesNotHaveBean(SlowQueryLog.class);
+        });
+    }
+
+    @Test
+    void shouldOnlyRegisterEndpointWhenExposed() {
+        contextRunner
+                .withPropertyValues("tasklist.diagnostics.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(DatabaseDiagnosticsEndpoint.class));
+        contextRunner
+                .withPropertyValues("tasklist.diagnostics.enabled=true",
+                        "management.endpoints.web.exposure.include=health,database")
+                .run(context -> assertThat(context).hasSingleBean(DatabaseDiagnosticsEndpoint.class));
+    }
+}
@@ -0,0 +1,124 @@
+package com.tasklist.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tasklist.model.Task;
+import com.tasklist.repository.TaskDueDateIndex;
+import com.tasklist.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskController.class)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=none",
+    "server.port=0"
+})
+class TaskControllerDueDateIndexTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskDueDateIndex dueDateIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldReturnIndexedTasksInIndexOrder() throws Exception {
+        // given
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(dueDateIndex.findOpenIdsDueBetween(from, to, 0, 20)).thenReturn(new long[] {3L, 1L, 7L});
+        // rows come back in arbitrary order, and task 7 was deleted in the meantime
+        when(taskRepository.findAllById(List.of(3L, 1L, 7L))).thenReturn(List.of(task(1L, "First"), task(3L, "Third")));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    @Test
+    void shouldDropRowsChangedSinceIndexed() throws Exception {
+        // given: another replica completed task 1 and moved task 2 out of the range
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(dueDateIndex.findOpenIdsDueBetween(from, to, 0, 20)).thenReturn(new long[] {1L, 2L, 3L});
+        Task completed = task(1L, "Completed");
+        completed.setCompleted(true);
+        Task moved = task(2L, "Moved");
+        moved.setDueDate(LocalDate.of(2025, 1, 15));
+        when(taskRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(completed, moved, task(3L, "Open")));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(3));
+    }
+
+    @Test
+    void shouldRejectOversizedPageBeforeQueryingIndex() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31&size=200000000"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(dueDateIndex);
+    }
+
+    @Test
+    void shouldRefreshIndexAfterCreate() throws Exception {
+        // given
+        Task newTask = task(null, "New Task");
+        when(taskRepository.save(any(Task.class))).thenReturn(task(5L, "New Task"));
+
+        // when
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newTask)))
+                .andExpect(status().isOk());
+
+        // then
+        verify(dueDateIndex).refresh(5L);
+    }
+
+    @Test
+    void shouldRefreshIndexAfterDelete() throws Exception {
+        // given
+        when(taskRepository.existsById(5L)).thenReturn(true);
+
+        // when
+        mockMvc.perform(delete("/api/tasks/5"))
+                .andExpect(status().isNoContent());
+
+        // then
+        verify(dueDateIndex).refresh(5L);
+    }
+
+    private static Task task(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDueDate(LocalDate.of(2024, 12, 15));
+        return task;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -82,6 +83,37 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].completed").value(true));
     }
 
+    @Test
+    void shouldGetOpenTasksDueBetween() throws Exception {
+        // given
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Due Task");
+        task.setCompleted(false);
+        task.setDueDate(LocalDate.of(2024, 12, 15));
+
+        when(taskRepository.findByCompletedFalseAndDueDateBetweenOrderByDueDateAscIdAsc(
+                LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31), PageRequest.of(0, 20)))
+                .thenReturn(List.of(task));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Due Task"));
+    }
+
+    @Test
+    void shouldRejectInvalidPageOfDueTasks() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31&size=2147483647"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31&size=0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/due?from=2024-12-01&to=2024-12-31&page=-1"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldCreateTask() throws Exception {
         // given
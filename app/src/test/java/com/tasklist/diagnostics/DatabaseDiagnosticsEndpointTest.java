@@ -0,0 +1,130 @@
+package com.tasklist.diagnostics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DatabaseDiagnosticsEndpointTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final SessionFactory sessionFactory = mock(SessionFactory.class);
+    private final Statistics statistics = mock(Statistics.class);
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(0, 10);
+    private final DatabaseDiagnosticsEndpoint endpoint =
+            new DatabaseDiagnosticsEndpoint(dataSource, entityManagerFactory, slowQueryLog);
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    void shouldReportPoolUtilisation() throws Exception {
+        // given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean poolBean = mock(HikariPoolMXBean.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikari);
+        when(hikari.getHikariPoolMXBean()).thenReturn(poolBean);
+        when(hikari.getPoolName()).thenReturn("tasklist-pool");
+        when(hikari.getMaximumPoolSize()).thenReturn(10);
+        when(poolBean.getActiveConnections()).thenReturn(4);
+        when(poolBean.getIdleConnections()).thenReturn(6);
+        when(poolBean.getTotalConnections()).thenReturn(10);
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        // when
+        Map<String, Object> pool = section(endpoint.diagnostics(), "pool");
+
+        // then
+        assertThat(pool).containsEntry("available", true)
+                .containsEntry("name", "tasklist-pool")
+                .containsEntry("active", 4)
+                .containsEntry("idle", 6)
+                .containsEntry("maximum", 10)
+                .containsEntry("utilization", 0.4);
+    }
+
+    @Test
+    void shouldReportPoolUnavailableForOtherDataSources() throws Exception {
+        // given
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(false);
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        // when
+        Map<String, Object> report = endpoint.diagnostics();
+
+        // then
+        assertThat(section(report, "pool")).containsExactly(Map.entry("available", false));
+        assertThat(section(report, "queryStatistics")).containsExactly(Map.entry("enabled", false));
+    }
+
+    @Test
+    void shouldListQueriesByTotalExecutionTime() {
+        // given: many fast executions outweigh one slow one
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getQueries()).thenReturn(new String[] {"slow", "frequent"});
+        QueryStatistics slow = queryStatistics(1, 0, 300, 300);
+        QueryStatistics frequent = queryStatistics(1_000, 0, 1, 900);
+        when(statistics.getQueryStatistics("slow")).thenReturn(slow);
+        when(statistics.getQueryStatistics("frequent")).thenReturn(frequent);
+
+        // when
+        List<Map<String, Object>> queries = queries(section(endpoint.diagnostics(), "queryStatistics"));
+
+        // then
+        assertThat(queries).extracting(query -> query.get("query")).containsExactly("frequent", "slow");
+        assertThat(queries.get(0)).containsEntry("totalTimeMs", 900L);
+        assertThat(queries.get(1)).containsEntry("totalTimeMs", 300L);
+    }
+
+    @Test
+    void shouldIncludeSlowQueries() {
+        // given
+        slowQueryLog.record("select * from task", 0, 250_000_000L);
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        // when
+        Map<String, Object> report = endpoint.diagnostics();
+
+        // then
+        assertThat(report).containsEntry("slowQueryThresholdMs", 0L);
+        assertThat((List<?>) report.get("slowQueries")).hasSize(1);
+    }
+
+    private static QueryStatistics queryStatistics(long count, long min, long max, long total) {
+        QueryStatistics stats = mock(QueryStatistics.class);
+        when(stats.getExecutionCount()).thenReturn(count);
+        when(stats.getExecutionMinTime()).thenReturn(min);
+        when(stats.getExecutionMaxTime()).thenReturn(max);
+        when(stats.getExecutionTotalTime()).thenReturn(total);
+        // Hibernate truncates the average to whole milliseconds
+        when(stats.getExecutionAvgTime()).thenReturn(total / count);
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> report, String name) {
+        return (Map<String, Object>) report.get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> queries(Map<String, Object> queryStatistics) {
+        return (List<Map<String, Object>>) queryStatistics.get("queries");
+    }
+}
@@ -0,0 +1,59 @@
+package com.tasklist.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryTimingDataSourceTest {
+
+    @Test
+    void shouldRecordSqlAndBindCountOfPreparedStatements() throws Exception {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, 10);
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        String sql = "select * from task where completed=? and due_date<=?";
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(sql)).thenReturn(statement);
+        QueryTimingDataSource dataSource = new QueryTimingDataSource(target, slowQueryLog);
+
+        // when
+        PreparedStatement prepared = dataSource.getConnection().prepareStatement(sql);
+        prepared.setFetchSize(100);
+        prepared.setBoolean(1, false);
+        prepared.setObject(2, "2024-12-31");
+        prepared.executeQuery();
+
+        // then
+        verify(statement).setBoolean(1, false);
+        assertThat(slowQueryLog.samples()).hasSize(1);
+        assertThat(slowQueryLog.samples().get(0).sql()).isEqualTo(sql);
+        assertThat(slowQueryLog.samples().get(0).bindCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordSqlOfPlainStatements() throws Exception {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, 10);
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        QueryTimingDataSource dataSource = new QueryTimingDataSource(target, slowQueryLog);
+
+        // when
+        dataSource.getConnection().createStatement().execute("select 1");
+
+        // then
+        assertThat(slowQueryLog.samples()).extracting(SlowQueryLog.SlowQuery::sql).containsExactly("select 1");
+    }
+}
@@ -0,0 +1,38 @@
+package com.tasklist.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    @Test
+    void shouldOnlyKeepQueriesAboveThreshold() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(100, 2);
+
+        // when
+        slowQueryLog.record("fast", 0, 5_000_000L);
+        slowQueryLog.record("slow 1", 1, 150_000_000L);
+        slowQueryLog.record("slow 2", 1, 200_000_000L);
+        slowQueryLog.record("slow 3", 1, 300_000_000L);
+
+        // then
+        assertThat(slowQueryLog.samples()).extracting(SlowQueryLog.SlowQuery::sql).containsExactly("slow 3", "slow 2");
+        assertThat(slowQueryLog.samples().get(0).durationMs()).isEqualTo(300);
+    }
+
+    @Test
+    void shouldKeepQueryExactlyAtThreshold() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(100, 10);
+
+        // when
+        slowQueryLog.record("at threshold", 0, 100_000_000L);
+        slowQueryLog.record("just below", 0, 99_999_999L);
+
+        // then
+        assertThat(slowQueryLog.samples()).extracting(SlowQueryLog.SlowQuery::sql).containsExactly("at threshold");
+        assertThat(slowQueryLog.thresholdMs()).isEqualTo(100);
+    }
+}
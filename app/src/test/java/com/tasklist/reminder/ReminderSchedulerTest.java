@@ -0,0 +1,212 @@
+package com.tasklist.reminder;
+
+import com.tasklist.model.Task;
+import com.tasklist.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderSchedulerTest {
+
+    private static final long TICK_MILLIS = 60_000;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-12-01T10:00:00Z"));
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final InMemoryReminderSink sink = new InMemoryReminderSink();
+    private final ReminderScheduler scheduler =
+            new ReminderScheduler(taskRepository, sink, clock, Duration.ofHours(24), Duration.ofMinutes(5), TICK_MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.claimReminder(anyLong(), any(LocalDate.class))).thenReturn(1);
+    }
+
+    @Test
+    void shouldRemindLeadTimeBeforeDueDate() {
+        // given
+        scheduler.schedule(task(1L, LocalDate.of(2024, 12, 3), false));
+
+        // when & then
+        clock.set(Instant.parse("2024-12-01T23:59:00Z"));
+        scheduler.tick();
+        assertThat(sink.drain()).isEmpty();
+
+        clock.set(Instant.parse("2024-12-02T00:00:00Z"));
+        scheduler.tick();
+        List<ReminderEvent> events = sink.drain();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).taskId()).isEqualTo(1L);
+        assertThat(events.get(0).dueDate()).isEqualTo(LocalDate.of(2024, 12, 3));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldLoadUpcomingTasksAtStartup() {
+        // given
+        when(taskRepository.findOpenTasksToRemindBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 2)))
+                .thenReturn(List.of(task(1L, LocalDate.of(2024, 12, 1), false)));
+
+        // when
+        scheduler.load();
+        clock.set(Instant.parse("2024-12-01T10:01:00Z"));
+        scheduler.tick();
+
+        // then: task 1 was never reminded, so its missed reminder is sent once
+        assertThat(sink.drain()).extracting(ReminderEvent::taskId).containsExactly(1L);
+        verify(taskRepository).claimReminder(1L, LocalDate.of(2024, 12, 1));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldOnlyReadTasksRemindedBeforeNextReload() {
+        // given: lead time 24h and reload every 5 minutes, starting 2024-12-01T10:00Z
+
+        // when
+        scheduler.reload();
+        clock.set(Instant.parse("2024-12-01T23:55:00Z"));
+        scheduler.reload();
+
+        // then: the horizon covers tasks due up to the day starting within lead time + reload interval
+        verify(taskRepository).findOpenTasksToRemindBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 2));
+        verify(taskRepository).findOpenTasksToRemindBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 3));
+    }
+
+    @Test
+    void shouldNotRemindAgainAfterRestart() {
+        // given: the reminder for task 1 went out before the restart
+        Task reminded = task(1L, LocalDate.of(2024, 12, 1), false);
+        reminded.setRemindedFor(LocalDate.of(2024, 12, 1));
+        when(taskRepository.findOpenTasksToRemindBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 2)))
+                .thenReturn(List.of(reminded));
+
+        // when
+        scheduler.load();
+        clock.set(Instant.parse("2024-12-01T10:01:00Z"));
+        scheduler.tick();
+
+        // then
+        assertThat(scheduler.pending()).isZero();
+        assertThat(sink.drain()).isEmpty();
+        verify(taskRepository, never()).claimReminder(anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    void shouldNotRemindAgainWhenOtherFieldsAreEdited() {
+        // given
+        scheduler.schedule(task(1L, LocalDate.of(2024, 12, 2), false));
+        clock.set(Instant.parse("2024-12-01T10:01:00Z"));
+        scheduler.tick();
+        assertThat(sink.drain()).hasSize(1);
+
+        // when: the title is edited after the reminder was sent
+        Task edited = task(1L, LocalDate.of(2024, 12, 2), false);
+        edited.setTitle("Renamed");
+        edited.setRemindedFor(LocalDate.of(2024, 12, 2));
+        scheduler.schedule(edited);
+        clock.set(Instant.parse("2024-12-01T10:02:00Z"));
+        scheduler.tick();
+
+        // then
+        assertThat(scheduler.pending()).isZero();
+        assertThat(sink.drain()).isEmpty();
+    }
+
+    @Test
+    void shouldRemindAgainWhenDueDateMoves() {
+        // given: reminded for December 2, then moved to December 5
+        Task moved = task(1L, LocalDate.of(2024, 12, 5), false);
+        moved.setRemindedFor(LocalDate.of(2024, 12, 2));
+
+        // when
+        scheduler.schedule(moved);
+        clock.set(Instant.parse("2024-12-04T00:00:00Z"));
+        scheduler.tick();
+
+        // then
+        assertThat(sink.drain()).extracting(ReminderEvent::dueDate).containsExactly(LocalDate.of(2024, 12, 5));
+    }
+
+    @Test
+    void shouldSkipReminderClaimedElsewhere() {
+        // given: another replica has already sent the reminder
+        when(taskRepository.claimReminder(1L, LocalDate.of(2024, 12, 2))).thenReturn(0);
+        scheduler.schedule(task(1L, LocalDate.of(2024, 12, 2), false));
+
+        // when
+        clock.set(Instant.parse("2024-12-01T10:01:00Z"));
+        scheduler.tick();
+
+        // then
+        assertThat(sink.drain()).isEmpty();
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldDropReminderWhenTaskCompletedOrDeleted() {
+        // given
+        scheduler.schedule(task(1L, LocalDate.of(2024, 12, 5), false));
+        scheduler.schedule(task(2L, LocalDate.of(2024, 12, 5), false));
+
+        // when
+        scheduler.schedule(task(1L, LocalDate.of(2024, 12, 5), true));
+        scheduler.cancel(2L);
+
+        // then
+        assertThat(scheduler.pending()).isZero();
+        clock.set(Instant.parse("2024-12-05T00:00:00Z"));
+        scheduler.tick();
+        assertThat(sink.drain()).isEmpty();
+    }
+
+    private static Task task(Long id, LocalDate dueDate, boolean completed) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDueDate(dueDate);
+        task.setCompleted(completed);
+        return task;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tasklist.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void shouldFireEntriesOnTheirDeadlineTick() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(1_000);
+        wheel.schedule(1L, 1_005, "soon");
+        wheel.schedule(2L, 1_000 + 5_000, "later");      // level 2
+        wheel.schedule(3L, 1_000 + 300_000, "much later"); // level 3
+
+        // when & then
+        assertThat(wheel.advanceTo(1_004)).isEmpty();
+        assertThat(wheel.advanceTo(1_005)).containsExactly("soon");
+        assertThat(wheel.advanceTo(5_999)).isEmpty();
+        assertThat(wheel.advanceTo(6_000)).containsExactly("later");
+        assertThat(wheel.advanceTo(300_999)).isEmpty();
+        assertThat(wheel.advanceTo(301_000)).containsExactly("much later");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldFireOverdueEntriesOnNextTick() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(500);
+
+        // when
+        wheel.schedule(1L, 10, "overdue");
+
+        // then
+        assertThat(wheel.advanceTo(501)).containsExactly("overdue");
+    }
+
+    @Test
+    void shouldCancelAndReschedule() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0);
+        wheel.schedule(1L, 10, "first");
+        wheel.schedule(2L, 20, "second");
+
+        // when
+        wheel.cancel(2L);
+        wheel.schedule(1L, 100, "moved");
+
+        // then
+        assertThat(wheel.advanceTo(50)).isEmpty();
+        assertThat(wheel.advanceTo(100)).containsExactly("moved");
+    }
+
+    @Test
+    void shouldHandleDeadlinesBeyondWheelRange() {
+        // given
+        long start = 7;
+        long farDeadline = start + (1L << 24) + 11; // beyond 64^4 ticks
+        TimerWheel<String> wheel = new TimerWheel<>(start);
+        wheel.schedule(1L, farDeadline, "far");
+
+        // when
+        List<String> fired = new ArrayList<>(wheel.advanceTo(farDeadline - 1));
+
+        // then
+        assertThat(fired).isEmpty();
+        assertThat(wheel.advanceTo(farDeadline)).containsExactly("far");
+    }
+}
@@ -0,0 +1,95 @@
+package com.tasklist.reminder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.tasklist.config.ReminderConfig;
+import com.tasklist.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class WebhookReminderSinkTest {
+
+    @Test
+    void shouldPostReminderWithIsoDates() throws Exception {
+        // given: a webhook receiver and the sink as the application wires it
+        BlockingQueue<String> bodies = new ArrayBlockingQueue<>(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/reminders", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        // Boot registers its conversion service so that @Value can bind Durations
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                        HttpMessageConvertersAutoConfiguration.class, RestClientAutoConfiguration.class))
+                .withUserConfiguration(ReminderConfig.class)
+                .withBean(TaskRepository.class, () -> mock(TaskRepository.class))
+                .withPropertyValues("tasklist.reminders.enabled=true", "tasklist.reminders.sink=webhook",
+                        "tasklist.reminders.webhook-url=http://localhost:" + server.getAddress().getPort() + "/reminders");
+
+        try {
+            contextRunner.run(context -> {
+                // when
+                context.getBean(ReminderSink.class).send(new ReminderEvent(
+                        1L, "Task 1", LocalDate.of(2024, 12, 3), Instant.parse("2024-12-02T00:00:00Z")));
+
+                // then
+                JsonNode body = new ObjectMapper().readTree(bodies.poll(5, TimeUnit.SECONDS));
+                assertThat(body.get("taskId").asLong()).isEqualTo(1L);
+                assertThat(body.get("title").asText()).isEqualTo("Task 1");
+                assertThat(body.get("dueDate").asText()).isEqualTo("2024-12-03");
+                assertThat(body.get("remindAt").asText()).isEqualTo("2024-12-02T00:00:00Z");
+            });
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldGiveUpOnWebhookThatDoesNotAnswer() throws Exception {
+        // given: a server that accepts the connection but never responds
+        try (ServerSocket server = new ServerSocket(0)) {
+            WebhookReminderSink sink = new WebhookReminderSink(RestClient.builder(),
+                    "http://localhost:" + server.getLocalPort() + "/reminders",
+                    Duration.ofMillis(200), Duration.ofMillis(200));
+            ReminderEvent event = new ReminderEvent(1L, "Task 1", LocalDate.of(2024, 12, 2), Instant.now());
+
+            // when & then
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> sink.send(event)).isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    void shouldRequireWebhookUrl() {
+        assertThatThrownBy(() -> new WebhookReminderSink(RestClient.builder(), " ", Duration.ofSeconds(2), Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
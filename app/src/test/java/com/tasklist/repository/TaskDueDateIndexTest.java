@@ -0,0 +1,173 @@
+package com.tasklist.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskDueDateIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 12, 1);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskDueDateIndex index = new TaskDueDateIndex(taskRepository);
+
+    @Test
+    void shouldReturnOpenTasksInDueDateOrder() {
+        // given
+        reloadWith(
+                entry(3L, day(5), false),
+                entry(1L, day(2), false),
+                entry(2L, day(2), true),
+                entry(4L, day(1), false),
+                entry(5L, day(9), false));
+
+        // when
+        long[] ids = index.findOpenIdsDueBetween(BASE.plusDays(1), BASE.plusDays(5), 0, 10);
+
+        // then
+        assertThat(ids).containsExactly(4L, 1L, 3L);
+    }
+
+    @Test
+    void shouldPageThroughResults() {
+        // given
+        reloadWith(
+                entry(1L, day(1), false),
+                entry(2L, day(2), false),
+                entry(3L, day(3), true),
+                entry(4L, day(4), false),
+                entry(5L, day(5), false));
+
+        // when & then
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 0, 2)).containsExactly(1L, 2L);
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 1, 2)).containsExactly(4L, 5L);
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 2, 2)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyInsertsUpdatesAndDeletes() {
+        // given
+        reloadWith(entry(1L, day(3), false), entry(2L, day(1), false), entry(3L, day(2), false));
+
+        // when
+        refreshTo(entry(2L, day(4), false)); // moved later
+        refreshTo(entry(3L, day(2), true));  // completed
+        refreshDeleted(1L);
+        refreshTo(entry(4L, day(1), false)); // created
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 0, 10)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void shouldDropTaskWhenDueDateIsCleared() {
+        // given
+        reloadWith(entry(1L, day(1), false));
+
+        // when
+        refreshTo(entry(1L, null, false));
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRefreshFromCommittedRow() {
+        // given
+        reloadWith(entry(1L, day(1), false), entry(2L, day(2), false));
+        when(taskRepository.findDueDateEntryById(1L)).thenReturn(Optional.of(entry(1L, day(5), false)));
+        when(taskRepository.findDueDateEntryById(2L)).thenReturn(Optional.empty());
+
+        // when
+        index.refresh(1L);
+        index.refresh(2L); // deleted
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(4), 0, 10)).isEmpty();
+        assertThat(index.findOpenIdsDueBetween(BASE.plusDays(5), BASE.plusDays(5), 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldKeepWriteThatLandsWhileReloading() {
+        // given: task 1 is completed while the reload is reading the table
+        when(taskRepository.findDueDateEntryById(1L)).thenReturn(Optional.of(entry(1L, day(1), true)));
+        when(taskRepository.findAllDueDateEntries()).thenAnswer(invocation -> {
+            index.refresh(1L);
+            return List.of(entry(1L, day(1), false), entry(2L, day(2), false));
+        });
+
+        // when
+        index.reload();
+
+        // then
+        assertThat(index.findOpenIdsDueBetween(BASE, BASE.plusDays(10), 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void shouldIndexExtremeDates() {
+        // given
+        reloadWith(entry(1L, LocalDate.MAX, false), entry(2L, LocalDate.MIN, false), entry(3L, day(1), false));
+
+        // when
+        refreshTo(entry(4L, day(2), false));
+
+        // then
+        assertThat(index.findOpenIdsDueBetween(LocalDate.MIN, LocalDate.MAX, 0, 10)).containsExactly(2L, 3L, 4L, 1L);
+    }
+
+    @Test
+    void shouldRejectInvalidPage() {
+        assertThatThrownBy(() -> index.findOpenIdsDueBetween(BASE, BASE, -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.findOpenIdsDueBetween(BASE, BASE, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void reloadWith(TaskDueDateEntry... entries) {
+        when(taskRepository.findAllDueDateEntries()).thenReturn(List.of(entries));
+        index.reload();
+    }
+
+    private void refreshTo(TaskDueDateEntry entry) {
+        when(taskRepository.findDueDateEntryById(entry.getId())).thenReturn(Optional.of(entry));
+        index.refresh(entry.getId());
+    }
+
+    private void refreshDeleted(long id) {
+        when(taskRepository.findDueDateEntryById(id)).thenReturn(Optional.empty());
+        index.refresh(id);
+    }
+
+    private static LocalDate day(int dueInDays) {
+        return BASE.plusDays(dueInDays);
+    }
+
+    private static TaskDueDateEntry entry(Long id, LocalDate dueDate, boolean completed) {
+        return new TaskDueDateEntry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getDueDate() {
+                return dueDate;
+            }
+
+            @Override
+            public boolean isCompleted() {
+                return completed;
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package com.tasklist.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class TaskQueryCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        // given
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 0);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> coalescer.execute("all", () -> {
+            executions.incrementAndGet();
+            queryStarted.countDown();
+            await(releaseQuery);
+            return "tasks";
+        })));
+        queryStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> coalescer.execute("all", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < 7) {
+            if (System.nanoTime() > deadline) {
+                releaseQuery.countDown();
+                executor.shutdownNow();
+                fail("Callers did not join the in-flight query within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+        releaseQuery.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("tasks");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(executedCount()).isEqualTo(1.0);
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRunAgainAfterCallCompletesWithoutWindow() {
+        // given
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 0);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        coalescer.execute("all", executions::incrementAndGet);
+        coalescer.execute("all", executions::incrementAndGet);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReuseResultWithinWindowUntilInvalidated() {
+        // given
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 60_000);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        Integer first = coalescer.execute("all", executions::incrementAndGet);
+        Integer second = coalescer.execute("all", executions::incrementAndGet);
+        coalescer.invalidate();
+        Integer third = coalescer.execute("all", executions::incrementAndGet);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isEqualTo(2);
+        assertThat(coalescedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotShareQueryThatStartedBeforeWrite() throws Exception {
+        // given: a read is in flight when a write commits
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 60_000);
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> staleRead = executor.submit(() -> coalescer.execute("all", () -> {
+            queryStarted.countDown();
+            await(releaseQuery);
+            return "before write";
+        }));
+        queryStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        coalescer.invalidate();
+        String readAfterWrite = coalescer.execute("all", () -> "after write");
+        releaseQuery.countDown();
+        String stale = staleRead.get(5, TimeUnit.SECONDS);
+        String laterRead = coalescer.execute("all", () -> "not expected");
+
+        // then
+        assertThat(stale).isEqualTo("before write");
+        assertThat(readAfterWrite).isEqualTo("after write");
+        assertThat(laterRead).isEqualTo("after write");
+        assertThat(executedCount()).isEqualTo(2.0);
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldNotKeepInvalidatedResultForWindow() throws Exception {
+        // given
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 60_000);
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> staleRead = executor.submit(() -> coalescer.execute("all", () -> {
+            queryStarted.countDown();
+            await(releaseQuery);
+            return "before write";
+        }));
+        queryStarted.await(5, TimeUnit.SECONDS);
+
+        // when: nobody reads between the write and the stale query finishing
+        coalescer.invalidate();
+        releaseQuery.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(coalescer.execute("all", () -> "after write")).isEqualTo("after write");
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        // given
+        TaskQueryCoalescer coalescer = new TaskQueryCoalescer(meterRegistry, 60_000);
+
+        // when & then
+        assertThatThrownBy(() -> coalescer.execute("all", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(coalescer.execute("all", () -> "tasks")).isEqualTo("tasks");
+    }
+
+    private double executedCount() {
+        return meterRegistry.counter("tasklist.repository.queries", "query", "all", "outcome", "executed").count();
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.counter("tasklist.repository.queries", "query", "all", "outcome", "coalesced").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -130,4 +130,76 @@ class TaskRepositoryTest {
         assertThat(retrievedTask).isNotNull();
         assertThat(retrievedTask.getTitle()).isEqualTo("Test Task");
     }
+
+    @Test
+    void shouldClaimReminderOncePerDueDate() {
+        // given
+        Task task = new Task();
+        task.setTitle("Reminded Task");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        Long id = entityManager.persistAndFlush(task).getId();
+        LocalDate dueDate = task.getDueDate();
+
+        // when
+        int first = taskRepository.claimReminder(id, dueDate);
+        int second = taskRepository.claimReminder(id, dueDate);
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(taskRepository.findOpenTasksToRemindBetween(LocalDate.now(), LocalDate.now().plusDays(10))).isEmpty();
+    }
+
+    @Test
+    void shouldAllowNewReminderWhenDueDateMoves() {
+        // given: reminded, then edited through a full save
+        Task task = new Task();
+        task.setTitle("Moved Task");
+        task.setDueDate(LocalDate.now().plusDays(1));
+        Long id = entityManager.persistAndFlush(task).getId();
+        taskRepository.claimReminder(id, task.getDueDate());
+        entityManager.clear();
+
+        Task renamed = taskRepository.findById(id).orElseThrow();
+        renamed.setTitle("Renamed Task");
+        taskRepository.saveAndFlush(renamed);
+        entityManager.clear();
+        assertThat(taskRepository.findOpenTasksToRemindBetween(LocalDate.now(), LocalDate.now().plusDays(10))).isEmpty();
+
+        // when
+        Task moved = taskRepository.findById(id).orElseThrow();
+        moved.setDueDate(LocalDate.now().plusDays(5));
+        taskRepository.saveAndFlush(moved);
+        entityManager.clear();
+
+        // then
+        assertThat(taskRepository.findOpenTasksToRemindBetween(LocalDate.now(), LocalDate.now().plusDays(10))).extracting(Task::getId).containsExactly(id);
+        assertThat(taskRepository.claimReminder(id, LocalDate.now().plusDays(1))).isZero();
+        assertThat(taskRepository.claimReminder(id, LocalDate.now().plusDays(5))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLoadDueDateEntriesOfTasksWithDueDate() {
+        // given
+        Task dated = new Task();
+        dated.setTitle("Dated Task");
+        dated.setDueDate(LocalDate.now().plusDays(1));
+        dated.setCompleted(true);
+        Long id = entityManager.persist(dated).getId();
+
+        Task undated = new Task();
+        undated.setTitle("Undated Task");
+        entityManager.persist(undated);
+        entityManager.flush();
+
+        // when
+        List<TaskDueDateEntry> entries = taskRepository.findAllDueDateEntries();
+
+        // then
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getId()).isEqualTo(id);
+        assertThat(entries.get(0).getDueDate()).isEqualTo(LocalDate.now().plusDays(1));
+        assertThat(entries.get(0).isCompleted()).isTrue();
+    }
 }
@@ -0,0 +1,72 @@
+#!/bin/bash
+
+# Startup benchmark: time from JVM launch to the first successful GET /api/tasks.
+# Compares the plain jar against the AOT + CDS run of the same build.
+#
+# Usage (DB_URL, DB_USERNAME, DB_PASSWORD etc. must be exported, see README):
+#   mvn -Paot-cds clean package -DskipTests
+#   ./startup-benchmark.sh [runs]
+
+# Configuration
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-8080}"
+CDS_DIR="target/cds"
+APP_JAR="$(ls "$CDS_DIR"/tasklist-api-*.jar 2>/dev/null | head -n 1)"
+TIMEOUT_SECONDS=120
+
+if [ -z "$APP_JAR" ] || [ ! -f "$CDS_DIR/application.jsa" ]; then
+  echo "No CDS build found in $CDS_DIR. Run: mvn -Paot-cds clean package -DskipTests"
+  exit 1
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+# Launch the app with the given JVM flags and print milliseconds until /api/tasks returns 200
+measure() {
+  local start pid elapsed
+  start=$(now_ms)
+  # Run from the extracted directory so the classpath matches the CDS training run
+  (cd "$CDS_DIR" && SERVER_PORT="$PORT" exec java "$@" -jar "$(basename "$APP_JAR")") > /dev/null 2>&1 &
+  pid=$!
+
+  while true; do
+    if curl -sf -o /dev/null "http://localhost:$PORT/api/tasks"; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null || [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      elapsed="failed"
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null
+  wait "$pid" 2>/dev/null
+  echo "$elapsed"
+}
+
+run_mode() {
+  local label="$1"
+  shift
+  local total=0 count=0 result
+  for i in $(seq 1 "$RUNS"); do
+    result=$(measure "$@")
+    echo "  $label run $i: ${result} ms"
+    if [ "$result" != "failed" ]; then
+      total=$(( total + result ))
+      count=$(( count + 1 ))
+    fi
+  done
+  if [ "$count" -gt 0 ]; then
+    echo "$label average: $(( total / count )) ms over $count runs"
+  else
+    echo "$label: all runs failed"
+  fi
+}
+
+echo "Measuring time to first successful GET /api/tasks ($RUNS runs each)"
+run_mode "baseline" -XX:MaxRAMPercentage=75.0
+run_mode "aot+cds " -XX:MaxRAMPercentage=75.0 -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true